@@ -2,12 +2,19 @@ package com.siemens.internship;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class InternshipApplication {
 
+	// Number of startup steps kept in memory, enough for a full context refresh of this application
+	private static final int STARTUP_STEPS_CAPACITY = 4096;
+
 	public static void main(String[] args) {
-		SpringApplication.run(InternshipApplication.class, args);
+		SpringApplication application = new SpringApplication(InternshipApplication.class);
+		// Record the startup phases (context refresh, bean creation, JPA bootstrap) so they can be read from /actuator/startup
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+		application.run(args);
 	}
 
 }
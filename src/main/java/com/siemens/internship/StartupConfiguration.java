@@ -0,0 +1,23 @@
+package com.siemens.internship;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/*
+    Configuration used only by the 'startup' profile.
+    The profile turns on lazy initialization for all beans, but the item API should still
+    be ready when the instance starts taking traffic, so its beans are created eagerly.
+*/
+@Configuration(proxyBeanMethods = false)
+@Profile("startup")
+public class StartupConfiguration {
+
+    // Keep the controller, service and repository eager so the first request does not pay for their creation
+    @Bean
+    static LazyInitializationExcludeFilter itemApiLazyInitializationExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                ItemController.class, ItemService.class, ItemRepository.class);
+    }
+}
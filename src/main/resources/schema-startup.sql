@@ -0,0 +1,11 @@
+-- Schema for the 'startup' profile, matches what Hibernate generates for Item with ddl-auto=update
+create sequence if not exists item_seq start with 1 increment by 50;
+
+create table if not exists item (
+    id bigint not null,
+    description varchar(255),
+    email varchar(255),
+    name varchar(255),
+    status varchar(255),
+    primary key (id)
+);
@@ -0,0 +1,65 @@
+package com.siemens.internship;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests for the 'startup' profile.
+ * The application is started through InternshipApplication.main so the startup steps are recorded,
+ * and it gets its own in-memory database, so the schema can only come from schema-startup.sql.
+ */
+@SpringBootTest(
+        useMainMethod = SpringBootTest.UseMainMethod.ALWAYS,
+        properties = "spring.datasource.url=jdbc:h2:mem:startup")
+@AutoConfigureMockMvc
+@ActiveProfiles("startup")
+public class StartupProfileTests {
+
+    @Autowired private ItemRepository repository;
+    @Autowired private ConfigurableListableBeanFactory beanFactory;
+    @Autowired private MockMvc mvc;
+
+    @Test
+    void schemaMatchesEntity() {
+        Item saved = repository.save(new Item(null, "n", "d", "NEW", "a@b.com"));
+
+        Item found = repository.findById(saved.getId()).orElseThrow();
+        assertEquals("n", found.getName());
+        assertEquals("NEW", found.getStatus());
+        assertTrue(repository.findAllIds().contains(saved.getId()));
+    }
+
+    @Test
+    void itemApiBeansAreEager() {
+        assertFalse(beanFactory.getBeanDefinition("itemController").isLazyInit());
+        assertFalse(beanFactory.getBeanDefinition("itemService").isLazyInit());
+        assertFalse(beanFactory.getBeanDefinition("itemRepository").isLazyInit());
+    }
+
+    // The H2 console is not needed by the item API, so it is neither eager nor created by the startup
+    @Test
+    void beansOutsideItemApiAreLazyAndNotCreated() {
+        assertTrue(beanFactory.getBeanDefinition("h2Console").isLazyInit());
+        assertFalse(beanFactory.containsSingleton("h2Console"));
+    }
+
+    @Test
+    void startupStepsAreExposed() throws Exception {
+        mvc.perform(get("/actuator/startup"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.timeline.events").isNotEmpty())
+                .andExpect(jsonPath("$.timeline.events[?(@.startupStep.name == 'spring.context.refresh')]").exists());
+    }
+}
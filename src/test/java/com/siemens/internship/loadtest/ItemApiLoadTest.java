@@ -0,0 +1,228 @@
+package com.siemens.internship.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.siemens.internship.Item;
+import com.siemens.internship.ItemRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Load test for the /api/items endpoints.
+ * Starts the application on a random port with its own in-memory H2 database, seeds the items and
+ * lets many concurrent clients call the real HTTP API with a weighted mix of operations.
+ * Throughput and p50/p99/p999 latencies are written by LoadTestReport to target/loadtest/<version>.
+ *
+ * It is tagged "loadtest" and excluded from the normal build, run it with: mvn -Ploadtest test
+ * Settings are described in LoadTestSettings.
+ *
+ * The table stays at N seeded items plus at most one item per client, so runs of different versions do the
+ * same work: a client owns at most one item, a POST creates it and the next POST or DELETE the client picks deletes it. The table is
+ * reset to N fresh items between warmup and measurement, and the final item count is written to the report.
+ *
+ * By default clients work in a closed loop (next request after the previous response). A slow response then
+ * hides the requests the client would have sent meanwhile, so p99/p999 look better than they are.
+ * Set -Dloadtest.ratePerClient to pace every client at a fixed rate: latencies are then recorded with the
+ * expected interval between requests, which corrects this coordinated omission and makes the tail
+ * percentiles comparable between versions.
+ */
+@Tag("loadtest")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:loadtest")
+public class ItemApiLoadTest {
+
+    @LocalServerPort private int port;
+    @Autowired private ItemRepository repository;
+    @Autowired private ObjectMapper mapper;
+
+    private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    // Extra time the clients get after the deadline to finish their last request
+    private static final long GRACE_SECONDS = 5;
+
+    // Ids of the seeded items. They are read and updated, but never deleted, so GET and PUT always find them.
+    // Only replaced between runs, submitting the clients makes the new list visible to them
+    private List<Long> seededIds;
+
+    @Test
+    void itemApiUnderLoad() throws Exception {
+        seed();
+        if (settings.warmupSeconds() > 0) {
+            run(settings.warmupSeconds());
+            // Start the measured run from N fresh items, without what warmup created or changed
+            seed();
+        }
+        Run run = run(settings.durationSeconds());
+        LoadTestReport report = run.report();
+        Path summary = report.write(settings, run.elapsed(), repository.count());
+        System.out.println(Files.readString(summary));
+
+        settings.mix().forEach((operation, weight) -> {
+            if (weight > 0) {
+                assertTrue(report.count(operation) > 0, "No " + operation + " request completed");
+            }
+        });
+        assertEquals(0, report.totalErrors(), "Requests failed under load, see " + summary);
+    }
+
+    private void seed() {
+        repository.deleteAllInBatch();
+        seededIds = repository.saveAll(IntStream.range(0, settings.items())
+                        .mapToObj(i -> new Item(null, "item-" + i, "seeded", "NEW", "seed" + i + "@load.test"))
+                        .toList())
+                .stream().map(Item::getId).toList();
+    }
+
+    // Merged report of all clients and the time from start until the last client finished
+    private record Run(LoadTestReport report, Duration elapsed) {
+    }
+
+    // Runs all clients for the given time and merges their reports
+    private Run run(int seconds) throws Exception {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(seconds);
+        // A client sends no request after the deadline, so it is done at the latest when its last request times out
+        long waitUntil = deadline + TimeUnit.SECONDS.toNanos(settings.requestTimeoutSeconds() + GRACE_SECONDS);
+        ExecutorService clients = Executors.newFixedThreadPool(settings.clients());
+        try {
+            List<Future<LoadTestReport>> results = new ArrayList<>();
+            for (int i = 0; i < settings.clients(); i++) {
+                results.add(clients.submit(() -> client(deadline)));
+            }
+            LoadTestReport merged = new LoadTestReport();
+            for (Future<LoadTestReport> result : results) {
+                try {
+                    merged.add(result.get(Math.max(0, waitUntil - System.nanoTime()), TimeUnit.NANOSECONDS));
+                } catch (TimeoutException e) {
+                    fail("A client did not finish within " + settings.requestTimeoutSeconds()
+                            + "s + " + GRACE_SECONDS + "s after the deadline");
+                }
+            }
+            return new Run(merged, Duration.ofNanos(System.nanoTime() - start));
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    // One client: picks operations by weight until the deadline and records the latency of each call.
+    // Failed and timed out requests are recorded as errors, so one bad response does not lose the run.
+    private LoadTestReport client(long deadline) throws IOException, InterruptedException {
+        LoadTestReport report = new LoadTestReport();
+        long intervalMicros = settings.expectedIntervalMicros();
+        long intervalNanos = TimeUnit.MICROSECONDS.toNanos(intervalMicros);
+        long nextSend = System.nanoTime();
+        // Item created by this client, the only one it deletes, so clients never race on a DELETE
+        Long ownId = null;
+        while (System.nanoTime() < deadline) {
+            if (intervalNanos > 0) {
+                long wait = nextSend - System.nanoTime();
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                }
+                // When behind schedule, continue from now; the missed requests are accounted for by the expected interval
+                nextSend = Math.max(nextSend + intervalNanos, System.nanoTime());
+            }
+            Operation operation = pick();
+            // POST and DELETE alternate so every created item is deleted again and the table stays at N
+            if (operation == Operation.POST || operation == Operation.DELETE) {
+                operation = ownId == null ? Operation.POST : Operation.DELETE;
+            }
+            HttpRequest request = request(operation, ownId);
+
+            long start = System.nanoTime();
+            HttpResponse<String> response;
+            try {
+                response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            } catch (IOException e) {
+                // Connection failures and HttpTimeoutException (a subclass) count as errors with the time they took
+                report.record(operation, elapsedMicros(start), intervalMicros, false);
+                continue;
+            }
+            boolean success = response.statusCode() == operation.expectedStatus();
+            report.record(operation, elapsedMicros(start), intervalMicros, success);
+            if (success && operation == Operation.POST) {
+                ownId = mapper.readTree(response.body()).get("id").asLong();
+            } else if (success && operation == Operation.DELETE) {
+                // A failed DELETE keeps the id, so the next DELETE of this client tries again
+                ownId = null;
+            }
+        }
+        return report;
+    }
+
+    private static long elapsedMicros(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+    }
+
+    private Operation pick() {
+        int total = settings.mix().values().stream().mapToInt(Integer::intValue).sum();
+        int roll = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<Operation, Integer> entry : settings.mix().entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Mix weights changed while picking");
+    }
+
+    private HttpRequest request(Operation operation, Long ownId) throws IOException {
+        String base = "http://localhost:" + port + "/api/items";
+        return timeout(switch (operation) {
+            case GET -> HttpRequest.newBuilder(URI.create(base + "/" + randomSeededId())).GET();
+            case GET_ALL -> HttpRequest.newBuilder(URI.create(base)).GET();
+            case POST -> json(HttpRequest.newBuilder(URI.create(base)), "POST",
+                    new Item(null, "created", "load", "NEW", "client@load.test"));
+            case PUT -> {
+                long id = randomSeededId();
+                yield json(HttpRequest.newBuilder(URI.create(base + "/" + id)), "PUT",
+                        new Item(null, "item-" + id, "updated", "UPDATED", "seed@load.test"));
+            }
+            case DELETE -> HttpRequest.newBuilder(URI.create(base + "/" + ownId)).DELETE();
+            case PROCESS -> HttpRequest.newBuilder(URI.create(base + "/process")).GET();
+        });
+    }
+
+    private HttpRequest timeout(HttpRequest.Builder builder) {
+        return builder.timeout(Duration.ofSeconds(settings.requestTimeoutSeconds())).build();
+    }
+
+    private HttpRequest.Builder json(HttpRequest.Builder builder, String method, Item item) throws IOException {
+        return builder.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(item)));
+    }
+
+    private long randomSeededId() {
+        return seededIds.get(ThreadLocalRandom.current().nextInt(seededIds.size()));
+    }
+}
@@ -0,0 +1,108 @@
+package com.siemens.internship.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Latency histograms and error counts of one load test run, per operation.
+ * Latencies are recorded in microseconds. Each client thread fills its own report,
+ * the reports are merged once the run is over so recording needs no synchronization.
+ * When clients run at a target rate, latencies are recorded with the expected interval between requests,
+ * so a stalled request also counts the requests the client could not send meanwhile (coordinated omission).
+ */
+class LoadTestReport {
+    // 3 significant digits keeps p999 accurate to 0.1%, the histogram resizes itself for long latencies
+    private static final int SIGNIFICANT_DIGITS = 3;
+    // HdrHistogram's percentile output divides values by this ratio, so .hgrm files are in milliseconds
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+
+    LoadTestReport() {
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new Histogram(SIGNIFICANT_DIGITS));
+            errors.put(operation, 0L);
+        }
+    }
+
+    // An expected interval of 0 records the plain latency
+    void record(Operation operation, long latencyMicros, long expectedIntervalMicros, boolean success) {
+        latencies.get(operation).recordValueWithExpectedInterval(latencyMicros, expectedIntervalMicros);
+        if (!success) {
+            errors.merge(operation, 1L, Long::sum);
+        }
+    }
+
+    void add(LoadTestReport other) {
+        for (Operation operation : Operation.values()) {
+            latencies.get(operation).add(other.latencies.get(operation));
+            errors.merge(operation, other.errors.get(operation), Long::sum);
+        }
+    }
+
+    long count(Operation operation) {
+        return latencies.get(operation).getTotalCount();
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Writes summary.csv (one line per operation plus a TOTAL line) and one .hgrm percentile
+     * distribution per operation into reportDir/version, so runs of different versions can be diffed or plotted.
+     * Throughput is computed over the elapsed time of the run, which includes the requests still in flight at the deadline.
+     */
+    Path write(LoadTestSettings settings, Duration elapsed, long finalItemCount) throws IOException {
+        Path dir = settings.reportDir().resolve(settings.version());
+        Files.createDirectories(dir);
+
+        Path summary = dir.resolve("summary.csv");
+        double elapsedSeconds = elapsed.toNanos() / 1e9;
+        try (PrintStream out = new PrintStream(Files.newOutputStream(summary))) {
+            out.printf(Locale.ROOT, "# version=%s items=%d finalItems=%d clients=%d ratePerClient=%d durationSeconds=%d elapsedSeconds=%.3f mix=%s%n",
+                    settings.version(), settings.items(), finalItemCount, settings.clients(), settings.ratePerClient(),
+                    settings.durationSeconds(), elapsedSeconds, settings.mix());
+            out.println("operation,requests,errors,throughput_per_s,p50_us,p99_us,p999_us,max_us");
+            Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+            for (Operation operation : Operation.values()) {
+                Histogram histogram = latencies.get(operation);
+                total.add(histogram);
+                out.println(line(operation.name(), histogram, errors.get(operation), elapsedSeconds));
+            }
+            out.println(line("TOTAL", total, totalErrors(), elapsedSeconds));
+        }
+
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve(operation.name() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+        return summary;
+    }
+
+    private static String line(String name, Histogram histogram, long errorCount, double elapsedSeconds) {
+        return String.format(Locale.ROOT, "%s,%d,%d,%.1f,%d,%d,%d,%d",
+                name,
+                histogram.getTotalCount(),
+                errorCount,
+                histogram.getTotalCount() / elapsedSeconds,
+                histogram.getValueAtPercentile(50),
+                histogram.getValueAtPercentile(99),
+                histogram.getValueAtPercentile(99.9),
+                histogram.getMaxValue());
+    }
+}
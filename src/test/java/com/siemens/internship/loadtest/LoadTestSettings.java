@@ -0,0 +1,80 @@
+package com.siemens.internship.loadtest;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Settings of a load test run, read from system properties so they can be passed on the command line:
+ * mvn -Ploadtest test -Dloadtest.clients=64 -Dloadtest.mix=GET=80,POST=20
+ * Every property has a default, so the harness also runs without any of them.
+ */
+record LoadTestSettings(int items,
+                        int clients,
+                        int warmupSeconds,
+                        int durationSeconds,
+                        int ratePerClient,
+                        int requestTimeoutSeconds,
+                        Map<Operation, Integer> mix,
+                        Path reportDir,
+                        String version) {
+
+    // POST and DELETE alternate per client (see ItemApiLoadTest), so their weights are equal
+    static final String DEFAULT_MIX = "GET=50,GET_ALL=5,POST=17,PUT=10,DELETE=17,PROCESS=1";
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                positive("loadtest.items", 200),
+                positive("loadtest.clients", 32),
+                Integer.getInteger("loadtest.warmupSeconds", 5),
+                positive("loadtest.durationSeconds", 30),
+                // 0 runs the clients in a closed loop, see ItemApiLoadTest
+                Integer.getInteger("loadtest.ratePerClient", 0),
+                positive("loadtest.requestTimeoutSeconds", 30),
+                parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+                Path.of(System.getProperty("loadtest.reportDir", "target/loadtest")),
+                System.getProperty("loadtest.version", "dev"));
+    }
+
+    // Parses a mix like "GET=50,POST=20" into operation weights; operations that are not listed get weight 0
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "', expected OPERATION=weight");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight of " + parts[0] + " must not be negative");
+            }
+            Operation operation;
+            try {
+                operation = Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "', unknown operation '"
+                        + parts[0].trim() + "', expected one of " + Arrays.toString(Operation.values()));
+            }
+            weights.put(operation, weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Mix '" + mix + "' has no operation with a positive weight");
+        }
+        return weights;
+    }
+
+    // Time between two requests of one client at the target rate, 0 when no rate is set
+    long expectedIntervalMicros() {
+        return ratePerClient > 0 ? 1_000_000L / ratePerClient : 0;
+    }
+
+    private static int positive(String property, int defaultValue) {
+        int value = Integer.getInteger(property, defaultValue);
+        if (value <= 0) {
+            throw new IllegalArgumentException(property + " must be positive, was " + value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,23 @@
+package com.siemens.internship.loadtest;
+
+/**
+ * Calls of the item API driven by the load test, with the status code each one returns on success.
+ */
+enum Operation {
+    GET(200),
+    GET_ALL(200),
+    POST(201),
+    PUT(201),
+    DELETE(204),
+    PROCESS(200);
+
+    private final int expectedStatus;
+
+    Operation(int expectedStatus) {
+        this.expectedStatus = expectedStatus;
+    }
+
+    int expectedStatus() {
+        return expectedStatus;
+    }
+}